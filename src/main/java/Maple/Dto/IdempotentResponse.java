@@ -0,0 +1,51 @@
+package Maple.Dto;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of the first response returned for an Idempotency-Key
+ * Replayed as-is when a client retries the same request with the same key.
+ * While the first attempt is still running the entry is a pending reservation
+ * with no status or body.
+ */
+public class IdempotentResponse {
+
+    /** SHA-256 of the request (method, path and body), used to detect key reuse with a different payload */
+    public String requestHash;
+
+    /** True while the first attempt is still running */
+    public boolean pending;
+
+    /** HTTP status code of the original response (0 while pending) */
+    public int status;
+
+    /** Original response body serialized as JSON (null while pending) */
+    public String body;
+
+    /** When the reservation or response was stored, used for expiry */
+    public Instant createdAt;
+
+    public IdempotentResponse() {
+        // Default constructor
+    }
+
+    public IdempotentResponse(String requestHash, int status, String body, Instant createdAt) {
+        this.requestHash = requestHash;
+        this.status = status;
+        this.body = body;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Creates a reservation marking a request as in progress
+     *
+     * @param requestHash SHA-256 of the request
+     * @param createdAt When the attempt started
+     * @return A pending entry without status or body
+     */
+    public static IdempotentResponse pending(String requestHash, Instant createdAt) {
+        IdempotentResponse response = new IdempotentResponse(requestHash, 0, null, createdAt);
+        response.pending = true;
+        return response;
+    }
+}
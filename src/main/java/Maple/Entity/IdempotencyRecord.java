@@ -0,0 +1,51 @@
+package Maple.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import java.time.Instant;
+import Maple.Dto.IdempotentResponse;
+
+/**
+ * JPA Entity storing the reservation or original response for an Idempotency-Key
+ * Used by DatabaseIdempotencyStore so retries are recognised on any node of a cluster
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+public class IdempotencyRecord extends PanacheEntityBase {
+
+    /** Idempotency key scoped by operation (e.g., "POST /clients:abc-123") */
+    @Id
+    @Column(name = "idempotency_key", length = 512)
+    public String key;
+
+    /** SHA-256 of the original request */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    public String requestHash;
+
+    /** True while the first attempt is still running */
+    @Column(nullable = false)
+    public boolean pending;
+
+    /** HTTP status code of the original response (0 while pending) */
+    @Column(nullable = false)
+    public int status;
+
+    /** Original response body as JSON (null while pending) */
+    @Column(columnDefinition = "text")
+    public String body;
+
+    /** When the reservation or response was stored */
+    @Column(name = "created_at", nullable = false)
+    public Instant createdAt;
+
+    /**
+     * Converts this record to the response snapshot replayed to clients
+     *
+     * @return The stored response
+     */
+    public IdempotentResponse toResponse() {
+        IdempotentResponse response = new IdempotentResponse(requestHash, status, body, createdAt);
+        response.pending = pending;
+        return response;
+    }
+}
@@ -0,0 +1,46 @@
+package Maple.Resource;
+
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Serializes response entities as CBOR (RFC 8949)
+ * Selected when a client sends "Accept: application/cbor", intended for
+ * internal service-to-service consumers that want a compact binary payload
+ * instead of JSON. Field names and structure are identical to the JSON output.
+ */
+@Provider
+@Produces(CborMessageBodyWriter.APPLICATION_CBOR)
+public class CborMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    /** Media type for CBOR encoded responses */
+    public static final String APPLICATION_CBOR = "application/cbor";
+
+    /** Shared mapper, thread-safe once configured; must not close the container's output stream */
+    private static final CBORMapper MAPPER = CBORMapper.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return mediaType != null && APPLICATION_CBOR.equals(mediaType.getType() + "/" + mediaType.getSubtype());
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        MAPPER.writeValue(entityStream, entity);
+    }
+}
@@ -1,34 +1,75 @@
 package Maple.Resource;
 
 import Maple.Dto.ClientDto;
+import Maple.Dto.IdempotentResponse;
 import Maple.Entity.Client;
 import Maple.Service.ClientService;
+import Maple.Service.IdempotencyStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.vertx.http.Compressed;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.jboss.logging.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Path("/clients")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 public class ClientResource {
 
+    private static final Logger LOG = Logger.getLogger(ClientResource.class);
+
+    /** Request header carrying the client-generated idempotency key */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /** Response header set when a stored response is replayed */
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    /** Seconds a client should wait before retrying while the original attempt is in progress */
+    private static final int IN_PROGRESS_RETRY_AFTER_SECONDS = 1;
+
     @Inject
     ClientService clientService;
 
+    /** Resolves to the store selected by clients.idempotency.store */
+    @Inject
+    Instance<IdempotencyStore> idempotencyStore;
+
+    @Inject
+    ObjectMapper objectMapper;
+
     /**
      * Create a new customer
      * Demonym is auto-populated from RestCountries API
+     * Retries carrying the same Idempotency-Key get the original response
      * 
+     * @param idempotencyKey Optional client-generated key identifying this request
      * @param clientDto Client data 
      * @return 201 Created with the created client including ID and demonym
      */
     @POST
-    public Response create(@Valid ClientDto clientDto) {
+    public Response create(@HeaderParam(IDEMPOTENCY_KEY_HEADER) String idempotencyKey, @Valid ClientDto clientDto) {
+        return idempotent(idempotencyKey, "POST /clients", clientDto, () -> doCreate(clientDto));
+    }
+
+    private Response doCreate(ClientDto clientDto) {
         try {
             Client entity = Client.toEntity(clientDto);
             Client created = clientService.create(entity);
@@ -46,10 +87,14 @@ public class ClientResource {
 
     /**
      * Get all existing customers
+     * Response is compressed when the client sends Accept-Encoding,
+     * and can be encoded as CBOR with "Accept: application/cbor"
      * 
      * @return 200 OK with list of all clients
      */
     @GET
+    @Compressed
+    @Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
     public Response listAll() {
         try {
             List<Client> clients = clientService.findAll();
@@ -72,6 +117,8 @@ public class ClientResource {
      * @return 200 OK with filtered list of clients
      */
     @GET
+    @Compressed
+    @Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
     @Path("/country/{country}")
     public Response getByCountry(@PathParam("country") String country) {
         try {
@@ -116,14 +163,21 @@ public class ClientResource {
      * Update an existing customer
      * Only allows modification of email, address, phone, and country
      * Demonym is auto-updated when country changes
+     * Retries carrying the same Idempotency-Key get the original response
      * 
      * @param id Client UUID
+     * @param idempotencyKey Optional client-generated key identifying this request
      * @param updatedDto Updated client data (without id/demonym)
      * @return 200 OK with updated client, or 404 Not Found
      */
     @PUT
     @Path("/{id}")
-    public Response update(@PathParam("id") UUID id, @Valid ClientDto updatedDto) {
+    public Response update(@PathParam("id") UUID id, @HeaderParam(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @Valid ClientDto updatedDto) {
+        return idempotent(idempotencyKey, "PUT /clients/" + id, updatedDto, () -> doUpdate(id, updatedDto));
+    }
+
+    private Response doUpdate(UUID id, ClientDto updatedDto) {
         try {
             Client client = clientService.update(id, Client.toEntity(updatedDto));
             if (client == null) {
@@ -167,6 +221,122 @@ public class ClientResource {
         }
     }
 
+    /**
+     * Runs a write operation at most once per Idempotency-Key
+     * Without a key the operation simply runs. With a key, the key is reserved
+     * before the operation runs, so a retry arriving while the original attempt is
+     * still in progress gets 409 Conflict with Retry-After instead of running it
+     * again. A completed response is replayed without touching the service layer.
+     * 5xx responses release the reservation so failed attempts can be retried.
+     * Reusing a key with a different request body returns 422 Unprocessable Entity.
+     *
+     * @param idempotencyKey Client-provided key, may be null
+     * @param operation Method and path, scopes the key to one endpoint/resource
+     * @param requestBody Request payload, fingerprinted to detect key reuse
+     * @param action The actual operation
+     * @return The original or the freshly produced response
+     */
+    private Response idempotent(String idempotencyKey, String operation, ClientDto requestBody,
+            Supplier<Response> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(IDEMPOTENCY_KEY_HEADER + " must be at most "
+                            + MAX_IDEMPOTENCY_KEY_LENGTH + " characters"))
+                    .build();
+        }
+
+        IdempotencyStore store = idempotencyStore.get();
+        String key = operation + ":" + idempotencyKey;
+        String requestHash;
+        try {
+            requestHash = hash(operation, requestBody);
+            if (!store.reserve(key, requestHash)) {
+                Optional<IdempotentResponse> stored = store.find(key);
+                if (stored.isPresent()) {
+                    return replay(stored.get(), requestHash);
+                }
+                // The other attempt was released or expired in between; let the client retry
+                return inProgress();
+            }
+        } catch (Exception e) {
+            LOG.warnf(e, "Idempotency store unavailable for key '%s'", key);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(new ErrorResponse("Error checking idempotency key: " + e.getMessage()))
+                    .build();
+        }
+
+        Response response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            releaseQuietly(store, key);
+            throw e;
+        }
+
+        if (response.getStatus() >= 500) {
+            releaseQuietly(store, key);
+            return response;
+        }
+        try {
+            store.complete(key, new IdempotentResponse(requestHash, response.getStatus(),
+                    objectMapper.writeValueAsString(response.getEntity()), Instant.now()));
+        } catch (Exception e) {
+            // The operation already succeeded; without a stored response a retry would run it again
+            LOG.warnf(e, "Could not store idempotent response for key '%s'", key);
+            releaseQuietly(store, key);
+        }
+        return response;
+    }
+
+    /**
+     * Answers a request whose key already has an entry: replays the original
+     * response, or reports that the original attempt is still running
+     */
+    private Response replay(IdempotentResponse stored, String requestHash) {
+        if (!stored.requestHash.equals(requestHash)) {
+            return Response.status(422)
+                    .entity(new ErrorResponse(IDEMPOTENCY_KEY_HEADER + " was already used with a different request"))
+                    .build();
+        }
+        if (stored.pending) {
+            return inProgress();
+        }
+        return Response.status(stored.status)
+                .entity(stored.body)
+                .type(MediaType.APPLICATION_JSON)
+                .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                .build();
+    }
+
+    private Response inProgress() {
+        return Response.status(Response.Status.CONFLICT)
+                .entity(new ErrorResponse("A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed"))
+                .header("Retry-After", IN_PROGRESS_RETRY_AFTER_SECONDS)
+                .build();
+    }
+
+    private void releaseQuietly(IdempotencyStore store, String key) {
+        try {
+            store.release(key);
+        } catch (Exception e) {
+            LOG.warnf(e, "Could not release idempotency key '%s'; it stays reserved until the pending timeout", key);
+        }
+    }
+
+    /**
+     * SHA-256 of the operation and JSON request body, hex encoded
+     */
+    private String hash(String operation, ClientDto requestBody)
+            throws JsonProcessingException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(operation.getBytes(StandardCharsets.UTF_8));
+        digest.update(objectMapper.writeValueAsBytes(requestBody));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
     /**
      * Simple error response class
      */
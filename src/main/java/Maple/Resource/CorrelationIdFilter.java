@@ -0,0 +1,49 @@
+package Maple.Resource;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+import org.jboss.logging.MDC;
+
+import java.util.UUID;
+
+/**
+ * Attaches a correlation ID to every request
+ *
+ * Uses the caller's X-Request-Id header when present (so IDs flow across
+ * services), otherwise generates one. The ID is put in the logging MDC as
+ * "requestId", so every log line written while handling the request carries it,
+ * and is echoed back in the X-Request-Id response header.
+ */
+@Provider
+public class CorrelationIdFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    /** Header carrying the correlation ID */
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    /** MDC key, included in JSON log output and the console format */
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    private static final int MAX_REQUEST_ID_LENGTH = 128;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        String requestId = requestContext.getHeaderString(REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isBlank() || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+            requestId = UUID.randomUUID().toString();
+        }
+        requestContext.setProperty(REQUEST_ID_MDC_KEY, requestId);
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object requestId = requestContext.getProperty(REQUEST_ID_MDC_KEY);
+        if (requestId != null) {
+            responseContext.getHeaders().putSingle(REQUEST_ID_HEADER, requestId);
+        }
+        MDC.remove(REQUEST_ID_MDC_KEY);
+    }
+}
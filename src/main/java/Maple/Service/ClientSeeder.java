@@ -0,0 +1,162 @@
+package Maple.Service;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Bulk-loads realistic Client rows at startup so dev and test run against a
+ * table of production-like size
+ *
+ * Rows are streamed with PostgreSQL COPY in batches, which is orders of
+ * magnitude faster than persisting entities one by one. Countries follow a
+ * weighted distribution and emails are unique per row.
+ *
+ * Controlled by:
+ * - clients.seed.count: number of rows to load (0 disables seeding)
+ * - clients.seed.batch-size: rows per COPY batch
+ */
+@ApplicationScoped
+public class ClientSeeder {
+
+    private static final Logger LOG = Logger.getLogger(ClientSeeder.class);
+
+    private static final String COPY_SQL = "COPY clients (id, first_name, middle_name, last_name, second_last_name, "
+            + "email, address, phone, country, demonym) FROM STDIN WITH (FORMAT csv)";
+
+    /** Country codes with their demonyms, weighted by how often they are picked (weights sum to 100) */
+    private static final String[][] COUNTRIES = {
+            {"US", "American", "30"},
+            {"MX", "Mexican", "15"},
+            {"ES", "Spanish", "10"},
+            {"CA", "Canadian", "8"},
+            {"BR", "Brazilian", "8"},
+            {"GB", "British", "7"},
+            {"DE", "German", "6"},
+            {"FR", "French", "6"},
+            {"AR", "Argentine", "5"},
+            {"CO", "Colombian", "5"}
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "John", "Maria", "Luis", "Ana", "James", "Sofia", "Carlos", "Emma", "Pedro", "Lucia",
+            "Michael", "Laura", "David", "Elena", "Daniel", "Camila", "Jorge", "Olivia", "Pablo", "Isabel"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Garcia", "Martinez", "Johnson", "Lopez", "Brown", "Rodriguez", "Perez", "Miller", "Gonzalez",
+            "Wilson", "Sanchez", "Moore", "Ramirez", "Taylor", "Torres", "Anderson", "Flores", "Thomas", "Rivera"
+    };
+
+    private static final String[] STREETS = {
+            "Main St", "Oak Ave", "Maple Rd", "Pine St", "Cedar Ln", "Elm St", "Park Ave", "Lake Dr", "Hill Rd", "River Rd"
+    };
+
+    @Inject
+    DataSource dataSource;
+
+    @ConfigProperty(name = "clients.seed.count", defaultValue = "0")
+    long count;
+
+    @ConfigProperty(name = "clients.seed.batch-size", defaultValue = "50000")
+    int batchSize;
+
+    void onStart(@Observes StartupEvent event) {
+        if (count <= 0) {
+            return;
+        }
+        try {
+            seed();
+        } catch (SQLException | IOException e) {
+            LOG.errorf(e, "Failed to seed %d clients", count);
+        }
+    }
+
+    /**
+     * Tops the clients table up to the configured row count
+     * Existing rows are kept, so restarting dev mode does not reload the data
+     */
+    void seed() throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            long existing = countRows(connection);
+            if (existing >= count) {
+                LOG.infof("Skipping seed: clients table already has %d rows", existing);
+                return;
+            }
+
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            Random random = new Random(42);
+            long start = System.nanoTime();
+
+            StringBuilder batch = new StringBuilder();
+            for (long i = existing; i < count; i++) {
+                appendRow(batch, i, random);
+                if ((i + 1) % batchSize == 0) {
+                    copyManager.copyIn(COPY_SQL, new StringReader(batch.toString()));
+                    batch.setLength(0);
+                }
+            }
+            if (batch.length() > 0) {
+                copyManager.copyIn(COPY_SQL, new StringReader(batch.toString()));
+            }
+
+            LOG.infof("Seeded %d clients in %d ms", count - existing, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private long countRows(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT count(*) FROM clients")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * Appends one CSV row; generated values never contain commas or quotes
+     * The row index is part of the email, which keeps emails unique
+     */
+    private void appendRow(StringBuilder sb, long index, Random random) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String[] country = pickCountry(random);
+
+        sb.append(UUID.randomUUID()).append(',')
+                .append(firstName).append(',')
+                .append(random.nextBoolean() ? FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] : "").append(',')
+                .append(lastName).append(',')
+                .append(random.nextBoolean() ? LAST_NAMES[random.nextInt(LAST_NAMES.length)] : "").append(',')
+                .append(firstName.toLowerCase()).append('.').append(lastName.toLowerCase())
+                .append('.').append(index).append("@seed.example.com").append(',')
+                .append(1 + random.nextInt(9999)).append(' ').append(STREETS[random.nextInt(STREETS.length)]).append(',')
+                .append('+').append(1_000_000_000L + (long) (random.nextDouble() * 8_999_999_999L)).append(',')
+                .append(country[0]).append(',')
+                .append(country[1]).append('\n');
+    }
+
+    private String[] pickCountry(Random random) {
+        int roll = random.nextInt(100);
+        for (String[] country : COUNTRIES) {
+            roll -= Integer.parseInt(country[2]);
+            if (roll < 0) {
+                return country;
+            }
+        }
+        return COUNTRIES[0];
+    }
+}
@@ -5,9 +5,14 @@ import Maple.Entity.Client;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.WebApplicationException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.logging.Logger;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -17,10 +22,25 @@ import java.util.UUID;
 @ApplicationScoped
 public class ClientService {
 
+    private static final Logger LOG = Logger.getLogger(ClientService.class);
+
     @Inject
     @RestClient
     RestCountriesClient restCountriesClient;
 
+    /**
+     * RestCountries failures with the same exception type and status are logged once per
+     * clients.log.upstream-error-interval; the country is a field, not part of the key.
+     * 4xx responses are logged at WARN without a stack trace, everything else at ERROR
+     */
+    private final ThrottledLogger upstreamErrorLog;
+
+    @Inject
+    public ClientService(
+            @ConfigProperty(name = "clients.log.upstream-error-interval", defaultValue = "30S") Duration interval) {
+        this.upstreamErrorLog = new ThrottledLogger(LOG, interval);
+    }
+
     /**
      * Fetches the demonym for a given country code from the RestCountries API
      * @param countryCode ISO 3166-1 country code (e.g., "US", "ES")
@@ -37,7 +57,18 @@ public class ClientService {
                 return countries.get(0).getDemonym();
             }
         } catch (Exception e) {
-            System.err.println("Error fetching demonym for country '" + countryCode + "': " + e.getMessage());
+            int status = e instanceof WebApplicationException wae ? wae.getResponse().getStatus() : 0;
+            String upstreamStatus = status == 0 ? "none" : String.valueOf(status);
+            Map<String, String> fields = Map.of("country", countryCode, "upstreamStatus", upstreamStatus,
+                    "upstreamError", e.getClass().getName());
+            if (status >= 400 && status < 500) {
+                // Rejected input (e.g. unknown country code), not an upstream failure
+                upstreamErrorLog.log(Logger.Level.WARN, e.getClass().getName() + ":" + upstreamStatus, null, fields,
+                        "RestCountries rejected country '%s' with status %d", countryCode, status);
+            } else {
+                upstreamErrorLog.log(Logger.Level.ERROR, e.getClass().getName() + ":" + upstreamStatus, e, fields,
+                        "Error fetching demonym for country '%s' from RestCountries", countryCode);
+            }
         }
         
         return null;
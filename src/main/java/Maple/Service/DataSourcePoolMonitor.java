@@ -0,0 +1,103 @@
+package Maple.Service;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.AgroalPoolInterceptor;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Agroal pool interceptor that warns when requests block waiting for a database connection
+ *
+ * On every acquisition it compares the pool's cumulative blocking time and acquire
+ * count with the previous snapshot. If the acquisitions in between spent more than
+ * clients.pool.wait-warning-threshold blocked on average, the pool is undersized for
+ * the current load; this also catches a single request that waited alone. The warning
+ * carries a snapshot of the pool metrics and is emitted at most once per
+ * clients.pool.wait-warning-interval so a saturated pool does not flood the log.
+ * State is kept in atomics, so the acquire path never takes a lock.
+ */
+@ApplicationScoped
+public class DataSourcePoolMonitor implements AgroalPoolInterceptor {
+
+    private static final Logger LOG = Logger.getLogger(DataSourcePoolMonitor.class);
+
+    private final Instance<AgroalDataSource> dataSource;
+    private final long thresholdNanos;
+    private final long intervalNanos;
+
+    /** Resolved on first acquisition; the pool is still being built when this bean is created */
+    private volatile AgroalDataSourceMetrics metrics;
+
+    private final AtomicReference<Snapshot> lastSnapshot = new AtomicReference<>(new Snapshot(0, 0));
+    private final AtomicLong lastWarning = new AtomicLong();
+
+    @Inject
+    public DataSourcePoolMonitor(Instance<AgroalDataSource> dataSource,
+            @ConfigProperty(name = "clients.pool.wait-warning-threshold", defaultValue = "50MS") Duration threshold,
+            @ConfigProperty(name = "clients.pool.wait-warning-interval", defaultValue = "10S") Duration interval) {
+        this.dataSource = dataSource;
+        this.thresholdNanos = threshold.toNanos();
+        this.intervalNanos = interval.toNanos();
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        check(metrics(), System.nanoTime());
+    }
+
+    /**
+     * Compares the metrics with the previous snapshot and logs a warning if needed
+     *
+     * @param poolMetrics Current pool metrics
+     * @param nowNanos Current System.nanoTime(), used for the warning interval
+     * @return true if a warning was logged
+     */
+    public boolean check(AgroalDataSourceMetrics poolMetrics, long nowNanos) {
+        Snapshot current = new Snapshot(poolMetrics.blockingTimeTotal().toNanos(), poolMetrics.acquireCount());
+        Snapshot previous = lastSnapshot.get();
+        long blockedNanos = current.blockingNanos - previous.blockingNanos;
+        long acquires = current.acquireCount - previous.acquireCount;
+
+        // Skip stale reads; losing the race means another acquisition accounted for this interval
+        if (blockedNanos < 0 || acquires <= 0 || !lastSnapshot.compareAndSet(previous, current)) {
+            return false;
+        }
+        if (blockedNanos / acquires < thresholdNanos) {
+            return false;
+        }
+
+        long last = lastWarning.get();
+        if ((last != 0 && nowNanos - last < intervalNanos) || !lastWarning.compareAndSet(last, nowNanos)) {
+            return false;
+        }
+
+        LOG.warnf("Requests are waiting on the connection pool: %d acquisitions blocked %dms in total, "
+                + "active=%d, available=%d, awaiting=%d, maxUsed=%d, avgBlockingTime=%dms, maxBlockingTime=%dms",
+                acquires, blockedNanos / 1_000_000,
+                poolMetrics.activeCount(), poolMetrics.availableCount(), poolMetrics.awaitingCount(),
+                poolMetrics.maxUsedCount(), poolMetrics.blockingTimeAverage().toMillis(),
+                poolMetrics.blockingTimeMax().toMillis());
+        return true;
+    }
+
+    private AgroalDataSourceMetrics metrics() {
+        AgroalDataSourceMetrics resolved = metrics;
+        if (resolved == null) {
+            resolved = dataSource.get().getMetrics();
+            metrics = resolved;
+        }
+        return resolved;
+    }
+
+    private record Snapshot(long blockingNanos, long acquireCount) {
+    }
+}
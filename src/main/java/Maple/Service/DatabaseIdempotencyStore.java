@@ -0,0 +1,87 @@
+package Maple.Service;
+
+import Maple.Dto.IdempotentResponse;
+import Maple.Entity.IdempotencyRecord;
+import io.quarkus.arc.lookup.LookupIfProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cluster-wide IdempotencyStore backed by the idempotency_keys table
+ * Enabled with clients.idempotency.store=database
+ * Reservations are atomic across nodes (INSERT ... ON CONFLICT); an expired row is
+ * replaced in place, and expired rows are purged every CLEANUP_EVERY reservations
+ */
+@ApplicationScoped
+@LookupIfProperty(name = "clients.idempotency.store", stringValue = "database")
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private static final int CLEANUP_EVERY = 100;
+
+    private static final String EXPIRED = "(pending = false and createdAt < ?1) or (pending = true and createdAt < ?2)";
+
+    private static final String RESERVE_SQL = "INSERT INTO idempotency_keys "
+            + "(idempotency_key, request_hash, pending, status, body, created_at) VALUES (?1, ?2, true, 0, NULL, ?3) "
+            + "ON CONFLICT (idempotency_key) DO UPDATE SET request_hash = EXCLUDED.request_hash, "
+            + "pending = true, status = 0, body = NULL, created_at = EXCLUDED.created_at "
+            + "WHERE (idempotency_keys.pending = false AND idempotency_keys.created_at < ?4) "
+            + "OR (idempotency_keys.pending = true AND idempotency_keys.created_at < ?5)";
+
+    @ConfigProperty(name = "clients.idempotency.ttl", defaultValue = "24H")
+    Duration ttl;
+
+    @ConfigProperty(name = "clients.idempotency.pending-timeout", defaultValue = "60S")
+    Duration pendingTimeout;
+
+    private final AtomicLong reservations = new AtomicLong();
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        Instant now = Instant.now();
+        return IdempotencyRecord.<IdempotencyRecord>find(
+                        "key = ?1 and ((pending = false and createdAt >= ?2) or (pending = true and createdAt >= ?3))",
+                        key, now.minus(ttl), now.minus(pendingTimeout))
+                .firstResultOptional()
+                .map(IdempotencyRecord::toResponse);
+    }
+
+    /**
+     * Inserts a pending row, or takes over an expired one; a live row for the key wins
+     */
+    @Override
+    @Transactional
+    public boolean reserve(String key, String requestHash) {
+        Instant now = Instant.now();
+        int inserted = IdempotencyRecord.getEntityManager().createNativeQuery(RESERVE_SQL)
+                .setParameter(1, key)
+                .setParameter(2, requestHash)
+                .setParameter(3, now)
+                .setParameter(4, now.minus(ttl))
+                .setParameter(5, now.minus(pendingTimeout))
+                .executeUpdate();
+
+        if (reservations.incrementAndGet() % CLEANUP_EVERY == 0) {
+            IdempotencyRecord.delete(EXPIRED, now.minus(ttl), now.minus(pendingTimeout));
+        }
+        return inserted == 1;
+    }
+
+    @Override
+    @Transactional
+    public void complete(String key, IdempotentResponse response) {
+        IdempotencyRecord.update("requestHash = ?1, pending = false, status = ?2, body = ?3, createdAt = ?4 "
+                + "where key = ?5", response.requestHash, response.status, response.body, response.createdAt, key);
+    }
+
+    @Override
+    @Transactional
+    public void release(String key) {
+        IdempotencyRecord.delete("key = ?1 and pending = true", key);
+    }
+}
@@ -0,0 +1,49 @@
+package Maple.Service;
+
+import Maple.Dto.IdempotentResponse;
+
+import java.util.Optional;
+
+/**
+ * Bounded, expiring store of responses keyed by Idempotency-Key
+ *
+ * A key is first reserved with a pending entry, so a retry arriving while the
+ * original attempt is still running can be detected, then completed with the
+ * response or released if the attempt failed. Completed entries expire after
+ * clients.idempotency.ttl, pending ones after clients.idempotency.pending-timeout
+ * (so a crashed attempt does not block its key).
+ *
+ * Implementations, selected with clients.idempotency.store:
+ * - InMemoryIdempotencyStore: "memory" (default), single node
+ * - DatabaseIdempotencyStore: "database", shared across a cluster
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Looks up the entry for a key
+     * @param key Idempotency key scoped by operation
+     * @return The pending reservation or original response, or empty if unknown or expired
+     */
+    Optional<IdempotentResponse> find(String key);
+
+    /**
+     * Atomically reserves a key for a new attempt; an expired entry is replaced
+     * @param key Idempotency key scoped by operation
+     * @param requestHash SHA-256 of the request
+     * @return true if the key was reserved, false if a live entry already exists
+     */
+    boolean reserve(String key, String requestHash);
+
+    /**
+     * Replaces the reservation with the response to replay on retries
+     * @param key Idempotency key scoped by operation
+     * @param response The original response
+     */
+    void complete(String key, IdempotentResponse response);
+
+    /**
+     * Drops a pending reservation so the request can be retried
+     * @param key Idempotency key scoped by operation
+     */
+    void release(String key);
+}
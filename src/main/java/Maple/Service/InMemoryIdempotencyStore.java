@@ -0,0 +1,84 @@
+package Maple.Service;
+
+import Maple.Dto.IdempotentResponse;
+import io.quarkus.arc.lookup.LookupUnlessProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Single-node IdempotencyStore backed by an LRU map
+ * Holds at most clients.idempotency.max-entries entries (pending or completed)
+ */
+@ApplicationScoped
+@LookupUnlessProperty(name = "clients.idempotency.store", stringValue = "database")
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, IdempotentResponse> entries;
+    private final Duration ttl;
+    private final Duration pendingTimeout;
+
+    @Inject
+    public InMemoryIdempotencyStore(
+            @ConfigProperty(name = "clients.idempotency.max-entries", defaultValue = "10000") int maxEntries,
+            @ConfigProperty(name = "clients.idempotency.ttl", defaultValue = "24H") Duration ttl,
+            @ConfigProperty(name = "clients.idempotency.pending-timeout", defaultValue = "60S") Duration pendingTimeout) {
+        this.ttl = ttl;
+        this.pendingTimeout = pendingTimeout;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<IdempotentResponse> find(String key) {
+        return Optional.ofNullable(live(key));
+    }
+
+    @Override
+    public synchronized boolean reserve(String key, String requestHash) {
+        if (live(key) != null) {
+            return false;
+        }
+        entries.put(key, IdempotentResponse.pending(requestHash, Instant.now()));
+        return true;
+    }
+
+    @Override
+    public synchronized void complete(String key, IdempotentResponse response) {
+        entries.put(key, response);
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        IdempotentResponse entry = entries.get(key);
+        if (entry != null && entry.pending) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Returns the entry for a key, evicting it first if it has expired
+     */
+    private IdempotentResponse live(String key) {
+        IdempotentResponse entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        Duration lifetime = entry.pending ? pendingTimeout : ttl;
+        if (entry.createdAt.plus(lifetime).isBefore(Instant.now())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+}
@@ -0,0 +1,124 @@
+package Maple.Service;
+
+import org.jboss.logging.Logger;
+import org.jboss.logging.MDC;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs repeated identical messages at most once per interval
+ *
+ * Messages are grouped by a caller-provided key, which should have low
+ * cardinality (e.g., exception type and upstream status, never raw user input).
+ * The first occurrence in each interval is logged, later ones are only counted,
+ * and the next logged line reports how many were suppressed. This keeps an
+ * upstream outage from flooding the log from every request thread.
+ *
+ * Per-call fields are written to the MDC for the duration of the log call, so
+ * they appear as separate attributes in JSON output. At most MAX_KEYS groups are
+ * tracked, plus one shared overflow group; idle groups are evicted when the map is
+ * full, and an evicted group that still has suppressed occurrences is flushed as a
+ * summary line first, so no count is lost. Unexpected key variety can therefore
+ * neither grow memory nor bypass the rate limit.
+ */
+public class ThrottledLogger {
+
+    /** Maximum number of distinct groups tracked before overflow */
+    public static final int MAX_KEYS = 256;
+
+    /** MDC field holding the number of identical messages suppressed since the last logged one */
+    public static final String SUPPRESSED_MDC_KEY = "suppressed";
+
+    private static final String OVERFLOW_KEY = "<overflow>";
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public ThrottledLogger(Logger logger, Duration interval) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * Logs a message unless the same key was already logged within the interval
+     *
+     * @param level Log level
+     * @param key Groups identical messages
+     * @param cause Exception to attach to the log record, may be null
+     * @param fields Structured fields added to the MDC for this log record
+     * @param format Message format (Logger.logf style)
+     * @param params Message parameters
+     */
+    public void log(Logger.Level level, String key, Throwable cause, Map<String, String> fields,
+            String format, Object... params) {
+        long now = System.nanoTime();
+        Window window = window(key, now);
+        window.level = level;
+        long last = window.lastLogged.get();
+
+        if ((last != 0 && now - last < intervalNanos) || !window.lastLogged.compareAndSet(last, now)) {
+            window.suppressed.incrementAndGet();
+            return;
+        }
+
+        long suppressed = window.suppressed.getAndSet(0);
+        fields.forEach(MDC::put);
+        if (suppressed > 0) {
+            MDC.put(SUPPRESSED_MDC_KEY, String.valueOf(suppressed));
+        }
+        try {
+            logger.logf(level, cause, format, params);
+        } finally {
+            fields.keySet().forEach(MDC::remove);
+            MDC.remove(SUPPRESSED_MDC_KEY);
+        }
+    }
+
+    /**
+     * Returns the window for a key, evicting idle windows when the map is full
+     */
+    private Window window(String key, long now) {
+        Window window = windows.get(key);
+        if (window != null) {
+            return window;
+        }
+        if (windows.size() >= MAX_KEYS) {
+            evictIdle(now);
+            if (windows.size() >= MAX_KEYS) {
+                return windows.computeIfAbsent(OVERFLOW_KEY, k -> new Window());
+            }
+        }
+        return windows.computeIfAbsent(key, k -> new Window());
+    }
+
+    /**
+     * Removes windows not logged within the interval, flushing their suppressed counts
+     */
+    private void evictIdle(long now) {
+        for (Map.Entry<String, Window> entry : windows.entrySet()) {
+            Window idle = entry.getValue();
+            if (now - idle.lastLogged.get() < intervalNanos || !windows.remove(entry.getKey(), idle)) {
+                continue;
+            }
+            long suppressed = idle.suppressed.getAndSet(0);
+            if (suppressed > 0) {
+                MDC.put(SUPPRESSED_MDC_KEY, String.valueOf(suppressed));
+                try {
+                    logger.logf(idle.level, "%d identical messages for '%s' were suppressed", suppressed, entry.getKey());
+                } finally {
+                    MDC.remove(SUPPRESSED_MDC_KEY);
+                }
+            }
+        }
+    }
+
+    private static class Window {
+        final AtomicLong lastLogged = new AtomicLong();
+        final AtomicLong suppressed = new AtomicLong();
+        volatile Logger.Level level = Logger.Level.ERROR;
+    }
+}
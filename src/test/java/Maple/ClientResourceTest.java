@@ -1,5 +1,7 @@
 package Maple;
 
+import Maple.Dto.ClientDto;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.*;
@@ -206,4 +208,102 @@ class ClientResourceTest {
                 .then()
                 .statusCode(404);
     }
+
+    @Test
+    @Order(12)
+    void testListClientsCompressed() {
+        given()
+                .header("Accept-Encoding", "gzip")
+                .when().get("/clients")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip");
+    }
+
+    @Test
+    @Order(14)
+    void testListClientsAsCbor() throws Exception {
+        byte[] body = given()
+                .accept("application/cbor")
+                .when().get("/clients/country/US")
+                .then()
+                .statusCode(200)
+                .contentType("application/cbor")
+                .extract().asByteArray();
+
+        ClientDto[] clients = new CBORMapper().readValue(body, ClientDto[].class);
+        Assertions.assertTrue(clients.length >= 1);
+        for (ClientDto client : clients) {
+            Assertions.assertEquals("US", client.country);
+            Assertions.assertNotNull(client.id);
+            Assertions.assertNotNull(client.firstName);
+            Assertions.assertNotNull(client.email);
+        }
+    }
+
+    @Test
+    @Order(15)
+    void testCreateClientIdempotentRetry() {
+        String clientJson = """
+                {
+                    "firstName": "Retry",
+                    "lastName": "Client",
+                    "email": "retry.client@example.com",
+                    "address": "1 Retry Rd",
+                    "phone": "+1555000111",
+                    "country": "US"
+                }
+                """;
+        String key = UUID.randomUUID().toString();
+
+        String firstId = given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", key)
+                .body(clientJson)
+                .when().post("/clients")
+                .then()
+                .statusCode(201)
+                .header("Idempotent-Replayed", nullValue())
+                .extract().path("id");
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", key)
+                .body(clientJson)
+                .when().post("/clients")
+                .then()
+                .statusCode(201) // Original response, not 409
+                .header("Idempotent-Replayed", is("true"))
+                .body("id", is(firstId));
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", key)
+                .body(clientJson.replace("1 Retry Rd", "2 Other Rd"))
+                .when().post("/clients")
+                .then()
+                .statusCode(422);
+
+        given()
+                .when().delete("/clients/" + firstId)
+                .then()
+                .statusCode(204);
+    }
+
+    @Test
+    @Order(16)
+    void testCorrelationIdPropagated() {
+        given()
+                .header("X-Request-Id", "test-correlation-id")
+                .when().get("/clients/" + UUID.randomUUID())
+                .then()
+                .statusCode(404)
+                .header("X-Request-Id", is("test-correlation-id"));
+
+        given()
+                .when().get("/clients/" + UUID.randomUUID())
+                .then()
+                .statusCode(404)
+                .header("X-Request-Id", notNullValue());
+    }
 }
@@ -0,0 +1,67 @@
+package Maple;
+
+import Maple.Service.DataSourcePoolMonitor;
+import io.agroal.api.AgroalDataSourceMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourcePoolMonitorTest {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(50);
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+
+    private final DataSourcePoolMonitor monitor = new DataSourcePoolMonitor(null, THRESHOLD, INTERVAL);
+
+    @Test
+    void testNoWarningWhenAcquisitionsDoNotBlock() {
+        assertFalse(monitor.check(metrics(Duration.ofMillis(1), 10), 1));
+        assertFalse(monitor.check(metrics(Duration.ofMillis(2), 20), 2));
+    }
+
+    @Test
+    void testWarnsWhenSingleAcquisitionBlocked() {
+        monitor.check(metrics(Duration.ofMillis(1), 10), 1);
+
+        // One acquisition waited 2s alone; nobody else is awaiting
+        assertTrue(monitor.check(metrics(Duration.ofMillis(2001), 11), 2));
+    }
+
+    @Test
+    void testWarningsAreLimitedToOnePerInterval() {
+        long start = 1;
+        assertTrue(monitor.check(metrics(Duration.ofSeconds(1), 1), start));
+        assertFalse(monitor.check(metrics(Duration.ofSeconds(2), 2), start + INTERVAL.toNanos() - 1));
+        assertTrue(monitor.check(metrics(Duration.ofSeconds(3), 3), start + INTERVAL.toNanos()));
+    }
+
+    @Test
+    void testStaleSnapshotIsIgnored() {
+        monitor.check(metrics(Duration.ofMillis(1), 10), 1);
+
+        // A concurrent acquisition that read older metrics must not produce a bogus delta
+        assertFalse(monitor.check(metrics(Duration.ofSeconds(5), 9), 2));
+        assertFalse(monitor.check(metrics(Duration.ofMillis(1), 10), 3));
+    }
+
+    /**
+     * Stubs the metrics with the given cumulative blocking time and acquire count;
+     * every other metric reads as zero
+     */
+    private static AgroalDataSourceMetrics metrics(Duration blockingTimeTotal, long acquireCount) {
+        return (AgroalDataSourceMetrics) Proxy.newProxyInstance(
+                AgroalDataSourceMetrics.class.getClassLoader(),
+                new Class<?>[] {AgroalDataSourceMetrics.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "blockingTimeTotal" -> blockingTimeTotal;
+                    case "acquireCount" -> acquireCount;
+                    default -> method.getReturnType() == Duration.class ? Duration.ZERO
+                            : method.getReturnType() == long.class ? 0L
+                            : method.getReturnType() == boolean.class ? false
+                            : null;
+                });
+    }
+}
@@ -0,0 +1,81 @@
+package Maple;
+
+import Maple.Dto.IdempotentResponse;
+import Maple.Entity.IdempotencyRecord;
+import Maple.Service.DatabaseIdempotencyStore;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class DatabaseIdempotencyStoreTest {
+
+    @Inject
+    DatabaseIdempotencyStore store;
+
+    @Test
+    void testReserveIsExclusive() {
+        String key = UUID.randomUUID().toString();
+
+        assertTrue(store.reserve(key, "hash"));
+        assertFalse(store.reserve(key, "hash"));
+        assertTrue(store.find(key).orElseThrow().pending);
+    }
+
+    @Test
+    void testCompleteIsReplayed() {
+        String key = UUID.randomUUID().toString();
+
+        store.reserve(key, "hash");
+        store.complete(key, new IdempotentResponse("hash", 201, "{\"id\":\"1\"}", Instant.now()));
+
+        IdempotentResponse stored = store.find(key).orElseThrow();
+        assertFalse(stored.pending);
+        assertEquals(201, stored.status);
+        assertEquals("{\"id\":\"1\"}", stored.body);
+        assertFalse(store.reserve(key, "hash"));
+    }
+
+    @Test
+    void testReleaseOnlyDropsPendingRows() {
+        String pending = UUID.randomUUID().toString();
+        store.reserve(pending, "hash");
+        store.release(pending);
+        assertTrue(store.find(pending).isEmpty());
+        assertTrue(store.reserve(pending, "hash"));
+
+        String done = UUID.randomUUID().toString();
+        store.reserve(done, "hash");
+        store.complete(done, new IdempotentResponse("hash", 200, "{}", Instant.now()));
+        store.release(done);
+        assertTrue(store.find(done).isPresent());
+    }
+
+    @Test
+    void testExpiredRowIsReplaced() {
+        String key = UUID.randomUUID().toString();
+        QuarkusTransaction.requiringNew().run(() -> {
+            IdempotencyRecord record = new IdempotencyRecord();
+            record.key = key;
+            record.requestHash = "old-hash";
+            record.status = 201;
+            record.body = "{}";
+            record.createdAt = Instant.now().minus(Duration.ofDays(2));
+            record.persist();
+        });
+
+        assertTrue(store.find(key).isEmpty());
+        assertTrue(store.reserve(key, "new-hash"));
+
+        IdempotentResponse reserved = store.find(key).orElseThrow();
+        assertTrue(reserved.pending);
+        assertEquals("new-hash", reserved.requestHash);
+    }
+}
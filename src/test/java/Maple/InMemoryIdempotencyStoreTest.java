@@ -0,0 +1,79 @@
+package Maple;
+
+import Maple.Dto.IdempotentResponse;
+import Maple.Service.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Duration PENDING_TIMEOUT = Duration.ofMinutes(1);
+
+    @Test
+    void testReserveIsExclusive() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, TTL, PENDING_TIMEOUT);
+
+        assertTrue(store.reserve("key", "hash"));
+        assertFalse(store.reserve("key", "hash"));
+        assertTrue(store.find("key").orElseThrow().pending);
+    }
+
+    @Test
+    void testCompleteIsReplayed() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, TTL, PENDING_TIMEOUT);
+
+        store.reserve("key", "hash");
+        store.complete("key", new IdempotentResponse("hash", 201, "{\"id\":\"1\"}", Instant.now()));
+
+        IdempotentResponse stored = store.find("key").orElseThrow();
+        assertFalse(stored.pending);
+        assertEquals(201, stored.status);
+        assertEquals("{\"id\":\"1\"}", stored.body);
+        assertFalse(store.reserve("key", "hash"));
+    }
+
+    @Test
+    void testReleaseOnlyDropsPendingEntries() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, TTL, PENDING_TIMEOUT);
+
+        store.reserve("pending", "hash");
+        store.release("pending");
+        assertTrue(store.find("pending").isEmpty());
+        assertTrue(store.reserve("pending", "hash"));
+
+        store.complete("done", new IdempotentResponse("hash", 200, "{}", Instant.now()));
+        store.release("done");
+        assertTrue(store.find("done").isPresent());
+    }
+
+    @Test
+    void testExpiredEntriesAreReplaced() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, TTL, PENDING_TIMEOUT);
+
+        store.complete("done", new IdempotentResponse("hash", 200, "{}", Instant.now().minus(TTL).minusSeconds(1)));
+        assertTrue(store.find("done").isEmpty());
+        assertTrue(store.reserve("done", "hash"));
+
+        IdempotentResponse stale = IdempotentResponse.pending("hash", Instant.now().minus(PENDING_TIMEOUT).minusSeconds(1));
+        store.complete("stale", stale);
+        assertTrue(store.reserve("stale", "hash"));
+    }
+
+    @Test
+    void testBoundedByMaxEntries() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(2, TTL, PENDING_TIMEOUT);
+
+        store.reserve("a", "hash");
+        store.reserve("b", "hash");
+        store.reserve("c", "hash");
+
+        assertTrue(store.find("a").isEmpty());
+        assertTrue(store.find("b").isPresent());
+        assertTrue(store.find("c").isPresent());
+    }
+}
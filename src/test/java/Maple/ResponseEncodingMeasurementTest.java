@@ -0,0 +1,104 @@
+package Maple;
+
+import Maple.Dto.ClientDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures serialized size and serialization CPU time for each encoding of a
+ * client list (JSON, JSON+gzip, CBOR, CBOR+gzip), in memory with default mappers
+ * Bytes on the wire through the HTTP stack are measured by `just bench`.
+ * Tagged "benchmark" and excluded from the default test run; use `just bench-encoding`
+ */
+@Tag("benchmark")
+class ResponseEncodingMeasurementTest {
+
+    private static final int CLIENTS = 10_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 20;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final CBORMapper cbor = new CBORMapper();
+
+    @Test
+    void testEncodingSizeAndCpu() throws IOException {
+        List<ClientDto> clients = clients();
+
+        long jsonBytes = measure("json", () -> json.writeValueAsBytes(clients));
+        long jsonGzipBytes = measure("json+gzip", () -> gzip(json.writeValueAsBytes(clients)));
+        long cborBytes = measure("cbor", () -> cbor.writeValueAsBytes(clients));
+        long cborGzipBytes = measure("cbor+gzip", () -> gzip(cbor.writeValueAsBytes(clients)));
+
+        Assertions.assertTrue(cborBytes < jsonBytes, "CBOR should be smaller than JSON");
+        Assertions.assertTrue(jsonGzipBytes < jsonBytes, "gzip should shrink JSON");
+        Assertions.assertTrue(cborGzipBytes < cborBytes, "gzip should shrink CBOR");
+    }
+
+    /**
+     * Encodes the payload repeatedly and prints the encoded size and average CPU time
+     *
+     * @return Encoded size in bytes
+     */
+    private long measure(String format, Encoder encoder) throws IOException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            encoder.encode();
+        }
+
+        long size = 0;
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            size = encoder.encode().length;
+        }
+        long cpuMicros = (threads.getCurrentThreadCpuTime() - start) / ITERATIONS / 1_000;
+
+        System.out.printf("%-10s %,10d bytes %,8d us cpu (%d clients)%n", format, size, cpuMicros, CLIENTS);
+        return size;
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<ClientDto> clients() {
+        String[] countries = {"US", "MX", "ES", "CA", "BR"};
+        String[] demonyms = {"American", "Mexican", "Spanish", "Canadian", "Brazilian"};
+        List<ClientDto> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            ClientDto client = new ClientDto();
+            client.id = UUID.randomUUID();
+            client.firstName = "John";
+            client.middleName = i % 2 == 0 ? "Michael" : null;
+            client.lastName = "Doe";
+            client.secondLastName = i % 3 == 0 ? "Smith" : null;
+            client.email = "john.doe." + i + "@example.com";
+            client.address = (100 + i) + " Main St";
+            client.phone = "+1" + (5550000000L + i);
+            client.country = countries[i % countries.length];
+            client.demonym = demonyms[i % demonyms.length];
+            clients.add(client);
+        }
+        return clients;
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        byte[] encode() throws IOException;
+    }
+}
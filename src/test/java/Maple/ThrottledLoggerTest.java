@@ -0,0 +1,125 @@
+package Maple;
+
+import Maple.Service.ThrottledLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThrottledLoggerTest {
+
+    private static final Duration SHORT_INTERVAL = Duration.ofMillis(100);
+    private static final Duration LONG_INTERVAL = Duration.ofSeconds(30);
+
+    private final CapturingLogger logger = new CapturingLogger();
+
+    @Test
+    void testRepeatsAreSuppressedUntilIntervalEnds() throws InterruptedException {
+        ThrottledLogger throttled = new ThrottledLogger(logger, SHORT_INTERVAL);
+
+        throttled.log(Logger.Level.ERROR, "key", null, Map.of(), "failure %d", 1);
+        throttled.log(Logger.Level.ERROR, "key", null, Map.of(), "failure %d", 2);
+        throttled.log(Logger.Level.ERROR, "key", null, Map.of(), "failure %d", 3);
+        assertEquals(1, logger.records.size());
+        assertEquals("failure 1", logger.records.get(0).message);
+        assertNull(logger.records.get(0).mdc.get(ThrottledLogger.SUPPRESSED_MDC_KEY));
+
+        Thread.sleep(SHORT_INTERVAL.toMillis() + 50);
+        throttled.log(Logger.Level.ERROR, "key", null, Map.of(), "failure %d", 4);
+
+        assertEquals(2, logger.records.size());
+        assertEquals("failure 4", logger.records.get(1).message);
+        assertEquals("2", logger.records.get(1).mdc.get(ThrottledLogger.SUPPRESSED_MDC_KEY));
+        assertNull(MDC.get(ThrottledLogger.SUPPRESSED_MDC_KEY));
+    }
+
+    @Test
+    void testFieldsAreInMdcOnlyDuringLogCall() {
+        ThrottledLogger throttled = new ThrottledLogger(logger, LONG_INTERVAL);
+        RuntimeException cause = new RuntimeException("boom");
+
+        throttled.log(Logger.Level.WARN, "key", cause, Map.of("country", "US", "upstreamStatus", "503"), "failed");
+
+        CapturedRecord record = logger.records.get(0);
+        assertEquals(Logger.Level.WARN, record.level);
+        assertSame(cause, record.thrown);
+        assertEquals("US", record.mdc.get("country"));
+        assertEquals("503", record.mdc.get("upstreamStatus"));
+        assertNull(MDC.get("country"));
+        assertNull(MDC.get("upstreamStatus"));
+    }
+
+    @Test
+    void testKeysBeyondLimitShareOverflowGroup() {
+        ThrottledLogger throttled = new ThrottledLogger(logger, LONG_INTERVAL);
+        for (int i = 0; i < ThrottledLogger.MAX_KEYS; i++) {
+            throttled.log(Logger.Level.ERROR, "key-" + i, null, Map.of(), "failure");
+        }
+        assertEquals(ThrottledLogger.MAX_KEYS, logger.records.size());
+
+        throttled.log(Logger.Level.ERROR, "extra-1", null, Map.of(), "failure");
+        throttled.log(Logger.Level.ERROR, "extra-2", null, Map.of(), "failure");
+
+        // First unseen key is logged through the overflow group, the next one is throttled with it
+        assertEquals(ThrottledLogger.MAX_KEYS + 1, logger.records.size());
+    }
+
+    @Test
+    void testEvictedWindowsFlushSuppressedCounts() throws InterruptedException {
+        ThrottledLogger throttled = new ThrottledLogger(logger, SHORT_INTERVAL);
+        for (int i = 0; i < ThrottledLogger.MAX_KEYS; i++) {
+            throttled.log(Logger.Level.ERROR, "key-" + i, null, Map.of(), "failure");
+        }
+        throttled.log(Logger.Level.ERROR, "key-0", null, Map.of(), "failure");
+        throttled.log(Logger.Level.ERROR, "key-0", null, Map.of(), "failure");
+        logger.records.clear();
+
+        Thread.sleep(SHORT_INTERVAL.toMillis() + 50);
+        throttled.log(Logger.Level.ERROR, "new-key", null, Map.of(), "failure");
+
+        assertEquals(2, logger.records.size());
+        CapturedRecord flushed = logger.records.get(0);
+        assertTrue(flushed.message.contains("key-0"));
+        assertEquals("2", flushed.mdc.get(ThrottledLogger.SUPPRESSED_MDC_KEY));
+        assertEquals("failure", logger.records.get(1).message);
+        assertNull(MDC.get(ThrottledLogger.SUPPRESSED_MDC_KEY));
+    }
+
+    private record CapturedRecord(Logger.Level level, String message, Throwable thrown, Map<String, Object> mdc) {
+    }
+
+    /**
+     * Logger that records each message with a snapshot of the MDC at log time
+     */
+    private static class CapturingLogger extends Logger {
+
+        final List<CapturedRecord> records = new ArrayList<>();
+
+        CapturingLogger() {
+            super("capturing");
+        }
+
+        @Override
+        public boolean isEnabled(Level level) {
+            return true;
+        }
+
+        @Override
+        protected void doLog(Level level, String loggerClassName, Object message, Object[] parameters, Throwable thrown) {
+            records.add(new CapturedRecord(level, String.valueOf(message), thrown, new HashMap<>(MDC.getMap())));
+        }
+
+        @Override
+        protected void doLogf(Level level, String loggerClassName, String format, Object[] parameters, Throwable thrown) {
+            String message = parameters == null ? format : String.format(format, parameters);
+            records.add(new CapturedRecord(level, message, thrown, new HashMap<>(MDC.getMap())));
+        }
+    }
+}